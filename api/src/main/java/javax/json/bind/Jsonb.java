@@ -44,6 +44,7 @@ import java.io.OutputStream;
 import java.io.Reader;
 import java.io.Writer;
 import java.lang.reflect.Type;
+import java.util.Objects;
 
 /**
  * <p>{@code Jsonb} provides an abstraction over the JSON Binding framework operations:</p>
@@ -112,6 +113,44 @@ import java.lang.reflect.Type;
  * <a href="http://tools.ietf.org/html/rfc7159">RFC 7159</a> and supported by Java Platform.
  * </blockquote>
  *
+ * <p><b>Runtime types</b></p>
+ * <blockquote>
+ * Mapping of a runtime type, including resolution of type variables of its generic hierarchy, is
+ * built once and cached by the {@code Jsonb} instance. Runtime types are compared using their
+ * {@code equals()} and {@code hashCode()} methods, so equal types share one cached mapping regardless of
+ * where they were obtained from. Implementations of {@link java.lang.reflect.ParameterizedType} and other
+ * {@link java.lang.reflect.Type} subinterfaces passed as runtime type are expected to implement
+ * {@code equals()} and {@code hashCode()} consistently with the Java platform implementations.
+ * </blockquote>
+ *
+ * <p><b>Unknown properties</b></p>
+ * <blockquote>
+ * In deserialization operations ({@code fromJson}), JSON object properties which don't map to any
+ * Java property, or which map to a property annotated with
+ * {@link javax.json.bind.annotation.JsonbTransient JsonbTransient}, are ignored.
+ * Implementations should skip values of such properties including any nested structures, without
+ * decoding their strings and numbers and without creating Java objects for them.
+ * Skipped values still have to be well-formed JSON. Malformed content, such as an invalid escape sequence
+ * or an invalid number, is reported by throwing JsonbException the same way as in values which are not skipped.
+ * </blockquote>
+ *
+ * <p><b>Primitive arrays</b></p>
+ * <blockquote>
+ * In deserialization operations ({@code fromJson}), arrays of {@code short}, {@code int}, {@code long},
+ * {@code float} and {@code double}, and arrays of {@code byte} using
+ * {@link javax.json.bind.config.BinaryDataStrategy#BYTE BinaryDataStrategy.BYTE}, should be populated
+ * directly from JSON number values. Implementations should not create a wrapper or {@link java.math.BigDecimal}
+ * instance per array element, nor collect the elements into an intermediate collection before copying them
+ * into the resulting array. Arrays of {@code char} and {@code boolean}, which are mapped from JSON strings and
+ * JSON literals, and arrays of {@code byte} using Base64 binary data strategies are not covered by this rule.
+ *
+ * Array elements are converted the same way as values of properties of the component type:
+ * a null value is reported by throwing JsonbException. For integral types, a number out of range of the type
+ * or a number with a non-zero fractional part (e.g. {@code 1.5}) is reported by throwing JsonbException
+ * as well. For {@code float} and {@code double}, a number is rounded to the nearest representable value.
+ * Apart from null values, the same conversion applies to properties of the corresponding wrapper types.
+ * </blockquote>
+ *
  * <p>For optimal use, {@code JsonbBuilder} and {@code Jsonb} instances should be
  * reused - for a typical use-case, only one {@code Jsonb} instance is
  * required by an application.</p>
@@ -171,6 +210,32 @@ public interface Jsonb extends AutoCloseable {
      */
     <T> T fromJson(String str, Type runtimeType) throws JsonbException;
 
+    /**
+     * Reads in a JSON data from the specified string and return the
+     * resulting content tree.
+     *
+     * @param str
+     *      The string to deserialize JSON data from.
+     *
+     * @param runtimeType
+     *      Runtime type of the content tree's root object, captured by {@link JsonbType}.
+     *
+     * @param <T>
+     *      Type of the content tree's root object.
+     *
+     * @return the newly created root object of the java content tree
+     *
+     * @throws JsonbException
+     *     If any unexpected error(s) occur(s) during deserialization.
+     * @throws NullPointerException
+     *      If any of the parameters is {@code null}.
+     *
+     * @since JSON Binding 1.1
+     */
+    default <T> T fromJson(final String str, final JsonbType<T> runtimeType) throws JsonbException {
+        return fromJson(str, runtimeType.getType());
+    }
+
     /**
      * Reads in a JSON data from the specified Reader and return the
      * resulting content tree.
@@ -213,6 +278,32 @@ public interface Jsonb extends AutoCloseable {
      */
     <T> T fromJson(Reader reader, Type runtimeType) throws JsonbException;
 
+    /**
+     * Reads in a JSON data from the specified Reader and return the
+     * resulting content tree.
+     *
+     * @param reader
+     *      The character stream is read as a JSON data.
+     *
+     * @param runtimeType
+     *      Runtime type of the content tree's root object, captured by {@link JsonbType}.
+     *
+     * @param <T>
+     *      Type of the content tree's root object.
+     *
+     * @return the newly created root object of the java content tree
+     *
+     * @throws JsonbException
+     *     If any unexpected error(s) occur(s) during deserialization.
+     * @throws NullPointerException
+     *      If any of the parameters is {@code null}.
+     *
+     * @since JSON Binding 1.1
+     */
+    default <T> T fromJson(final Reader reader, final JsonbType<T> runtimeType) throws JsonbException {
+        return fromJson(reader, runtimeType.getType());
+    }
+
     /**
      * Reads in a JSON data from the specified InputStream and return the
      * resulting content tree.
@@ -257,6 +348,33 @@ public interface Jsonb extends AutoCloseable {
      */
     <T> T fromJson(InputStream stream, Type runtimeType) throws JsonbException;
 
+    /**
+     * Reads in a JSON data from the specified InputStream and return the
+     * resulting content tree.
+     *
+     * @param stream
+     *      The stream is read as a JSON data. Upon a
+     *      successful completion, the stream will be closed by this method.
+     *
+     * @param runtimeType
+     *      Runtime type of the content tree's root object, captured by {@link JsonbType}.
+     *
+     * @param <T>
+     *      Type of the content tree's root object.
+     *
+     * @return the newly created root object of the java content tree
+     *
+     * @throws JsonbException
+     *     If any unexpected error(s) occur(s) during deserialization.
+     * @throws NullPointerException
+     *      If any of the parameters is {@code null}.
+     *
+     * @since JSON Binding 1.1
+     */
+    default <T> T fromJson(final InputStream stream, final JsonbType<T> runtimeType) throws JsonbException {
+        return fromJson(stream, runtimeType.getType());
+    }
+
     /**
      * Writes the Java object tree with root object {@code object} to a String
      * instance as JSON.
@@ -296,6 +414,29 @@ public interface Jsonb extends AutoCloseable {
      */
     String toJson(Object object, Type runtimeType) throws JsonbException;
 
+    /**
+     * Writes the Java object tree with root object {@code object} to a String
+     * instance as JSON.
+     *
+     * @param object
+     *      The root object of the object content tree to be serialized. Must not be null.
+     *
+     * @param runtimeType
+     *      Runtime type of the content tree's root object, captured by {@link JsonbType}.
+     *
+     * @return String instance with serialized JSON data.
+     *
+     * @throws JsonbException If any unexpected problem occurs during the
+     * serialization, such as I/O error.
+     * @throws NullPointerException
+     *      If any of the parameters is {@code null}.
+     *
+     * @since JSON Binding 1.1
+     */
+    default String toJson(final Object object, final JsonbType<?> runtimeType) throws JsonbException {
+        return toJson(object, runtimeType.getType());
+    }
+
     /**
      * Writes the object content tree into a Writer character stream.
      *
@@ -336,6 +477,31 @@ public interface Jsonb extends AutoCloseable {
      */
     void toJson(Object object, Type runtimeType, Writer writer) throws JsonbException;
 
+    /**
+     * Writes the object content tree into a Writer character stream.
+     *
+     * @param object
+     *      The object content tree to be serialized.
+     *
+     * @param runtimeType
+     *      Runtime type of the content tree's root object, captured by {@link JsonbType}.
+     *
+     * @param writer
+     *      The JSON will be sent as a character stream to the given
+     *      {@link Writer}.
+     *
+     * @throws JsonbException If any unexpected problem occurs during the
+     * serialization.
+     * @throws NullPointerException
+     *      If any of the parameters is {@code null}.
+     *
+     * @since JSON Binding 1.1
+     */
+    default void toJson(final Object object, final JsonbType<?> runtimeType, final Writer writer)
+            throws JsonbException {
+        toJson(object, runtimeType.getType(), writer);
+    }
+
     /**
      * Writes the object content tree into output stream.
      *
@@ -377,4 +543,58 @@ public interface Jsonb extends AutoCloseable {
      * @since JSON Binding 1.0
      */
     void toJson(Object object, Type runtimeType, OutputStream stream) throws JsonbException;
+
+    /**
+     * Writes the object content tree into output stream.
+     *
+     * @param object
+     *      The object content tree to be serialized.
+     *
+     * @param runtimeType
+     *      Runtime type of the content tree's root object, captured by {@link JsonbType}.
+     *
+     * @param stream
+     *      The JSON will be sent as a byte stream to the given
+     *      {@link OutputStream}. Upon a successful completion, the stream will be closed
+     *      by this method.
+     *
+     * @throws JsonbException If any unexpected problem occurs during the
+     * serialization.
+     * @throws NullPointerException
+     *      If any of the parameters is {@code null}.
+     *
+     * @since JSON Binding 1.1
+     */
+    default void toJson(final Object object, final JsonbType<?> runtimeType, final OutputStream stream)
+            throws JsonbException {
+        toJson(object, runtimeType.getType(), stream);
+    }
+
+    /**
+     * Prepares mapping of the given types ahead of the first {@code toJson} or {@code fromJson} call.
+     *
+     * Implementations are expected to build and cache all metadata required to bind
+     * given types, such as property accessors, names and order, adapters and serializers, so that
+     * the first binding operation of such type doesn't pay this cost. Types reachable from
+     * given types are prepared as well. Calling this method is optional, it
+     * has no effect on the result of binding operations.
+     *
+     * The default implementation does nothing and leaves the preparation to the first binding operation.
+     *
+     * @param types
+     *      Types to prepare mapping for.
+     *
+     * @throws JsonbException If any unexpected problem occurs during the preparation,
+     * such as classes providing conflicting annotations.
+     * @throws NullPointerException
+     *      If any of the parameters is {@code null}.
+     *
+     * @see JsonbConfig#withPreparedTypes(Type...)
+     * @since JSON Binding 1.1
+     */
+    default void prepare(final Type... types) throws JsonbException {
+        for (Type type : Objects.requireNonNull(types)) {
+            Objects.requireNonNull(type);
+        }
+    }
 }
@@ -40,11 +40,14 @@
 package javax.json.bind;
 
 import javax.json.bind.adapter.JsonbAdapter;
+import javax.json.bind.adapter.JsonbStreamingAdapter;
+import javax.json.bind.config.PropertyAccessStrategy;
 import javax.json.bind.config.PropertyNamingStrategy;
 import javax.json.bind.config.PropertyVisibilityStrategy;
 import javax.json.bind.serializer.JsonbDeserializer;
 import javax.json.bind.serializer.JsonbSerializer;
 import java.lang.reflect.Array;
+import java.lang.reflect.Type;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Locale;
@@ -131,11 +134,21 @@ public class JsonbConfig {
      */
     public static final String PROPERTY_VISIBILITY_STRATEGY = "jsonb.property-visibility-strategy";
 
+    /**
+     * Property used to specify custom property access strategy.
+     */
+    public static final String PROPERTY_ACCESS_STRATEGY = "jsonb.property-access-strategy";
+
     /**
      * Property used to specify custom mapping adapters for generic types.
      */
     public static final String ADAPTERS = "jsonb.adapters";
 
+    /**
+     * Property used to specify custom streaming mapping adapters.
+     */
+    public static final String STREAMING_ADAPTERS = "jsonb.streaming-adapters";
+
     /**
      * Property used to specify custom serializers.
      */
@@ -161,6 +174,26 @@ public class JsonbConfig {
      */
     public static final String LOCALE = "jsonb.locale";
 
+    /**
+     * Property used to specify custom date strategy.
+     */
+    public static final String DATE_STRATEGY = "jsonb.date-strategy";
+
+    /**
+     * Property used to specify location of a build-time generated metadata index.
+     */
+    public static final String METADATA_INDEX = "jsonb.metadata-index";
+
+    /**
+     * Property used to specify types prepared when Jsonb instance is built.
+     */
+    public static final String PREPARED_TYPES = "jsonb.prepared-types";
+
+    /**
+     * Property used to specify whether prepared types may be prepared in parallel.
+     */
+    public static final String PARALLEL_PREPARATION = "jsonb.parallel-preparation";
+
     /**
      * Set the particular configuration property to a new value. The method can
      * only be used to set one of the standard JSON Binding properties defined in
@@ -329,6 +362,38 @@ public class JsonbConfig {
         return setProperty(PROPERTY_VISIBILITY_STRATEGY, propertyVisibilityStrategy);
     }
 
+    /**
+     * Property used to specify custom property access strategy.
+     *
+     * Configures value of {@code PROPERTY_ACCESS_STRATEGY} property.
+     *
+     * @param propertyAccessStrategy
+     *      Custom property access strategy which affects serialization and deserialization.
+     *
+     * @return This JsonbConfig instance.
+     *
+     * @since JSON Binding 1.1
+     */
+    public final JsonbConfig withPropertyAccessStrategy(final PropertyAccessStrategy propertyAccessStrategy) {
+        return setProperty(PROPERTY_ACCESS_STRATEGY, propertyAccessStrategy);
+    }
+
+    /**
+     * Property used to specify property access strategy.
+     *
+     * Configures value of {@code PROPERTY_ACCESS_STRATEGY} property.
+     *
+     * @param propertyAccessStrategy
+     *      Predefined property access strategy which affects serialization and deserialization.
+     *
+     * @return This JsonbConfig instance.
+     *
+     * @since JSON Binding 1.1
+     */
+    public final JsonbConfig withPropertyAccessStrategy(final String propertyAccessStrategy) {
+        return setProperty(PROPERTY_ACCESS_STRATEGY, propertyAccessStrategy);
+    }
+
     /**
      * Property used to specify custom mapping adapters.
      *
@@ -346,6 +411,25 @@ public class JsonbConfig {
         return this;
     }
 
+    /**
+     * Property used to specify custom streaming mapping adapters.
+     *
+     * Configures value of {@code STREAMING_ADAPTERS} property.
+     *
+     * Calling withStreamingAdapters more than once will merge the adapters with previous value.
+     *
+     * @param adapters
+     *      Custom streaming mapping adapters which affects serialization and deserialization.
+     *
+     * @return This JsonbConfig instance.
+     *
+     * @since JSON Binding 1.1
+     */
+    public final JsonbConfig withStreamingAdapters(final JsonbStreamingAdapter... adapters) {
+        mergeProperties(STREAMING_ADAPTERS, adapters, JsonbStreamingAdapter.class);
+        return this;
+    }
+
     /**
      * Property used to specify custom serializers.
      *
@@ -353,6 +437,19 @@ public class JsonbConfig {
      *
      * Calling withSerializers more than once will merge the serializers with previous value.
      *
+     * Serializer is selected by the runtime type of serialized object in the following order:
+     * <ol>
+     *   <li>Serializer registered for the runtime class.</li>
+     *   <li>Serializer registered for the closest superclass of the runtime class.</li>
+     *   <li>Serializer registered for the closest interface. Interfaces are searched breadth-first by distance
+     *   from the runtime class: an interface implemented directly by a class has distance of that class plus one,
+     *   where the runtime class has distance 0 and each superclass one more than its subclass, and
+     *   a superinterface has distance of its subinterface plus one. If several registered interfaces share
+     *   the smallest distance, JsonbException is thrown.</li>
+     * </ol>
+     * Selected serializer is resolved once per runtime type and
+     * cached, so that serialization of a value costs a single lookup.
+     *
      * @param serializers
      *      Custom serializers which affects serialization.
      *
@@ -370,6 +467,12 @@ public class JsonbConfig {
      *
      * Calling withDeserializers more than once will merge the deserializers with previous value.
      *
+     * Deserializer is selected by exact match of the type to deserialize into, deserializer registered for
+     * a raw class also matches parameterized types of that class. Deserializers registered for supertypes
+     * are not used, as they don't guarantee to return instance of the type to deserialize into.
+     * Selected deserializer is resolved once per type and cached, so that deserialization of a value
+     * costs a single lookup.
+     *
      * @param deserializers
      *      Custom deserializers which affects deserialization.
      *
@@ -398,6 +501,9 @@ public class JsonbConfig {
      * Property used to specify custom date format. This format will be used by default for all date classes
      * serialization and deserialization.
      *
+     * The format is compiled once per pattern and locale and may be shared across Jsonb instances,
+     * see {@link javax.json.bind.annotation.JsonbDateFormat}.
+     *
      * @param dateFormat
      *      Custom date format as specified in {@link java.time.format.DateTimeFormatter}.
      * @param locale
@@ -420,6 +526,88 @@ public class JsonbConfig {
         return setProperty(LOCALE, locale);
     }
 
+    /**
+     * Property used to specify custom date strategy.
+     *
+     * Configures value of {@code DATE_STRATEGY} property.
+     *
+     * @param dateStrategy
+     *      Predefined date strategy which affects serialization and deserialization,
+     *      as specified in {@link javax.json.bind.config.DateStrategy}.
+     *
+     * @return This JsonbConfig instance.
+     *
+     * @since JSON Binding 1.1
+     */
+    public final JsonbConfig withDateStrategy(final String dateStrategy) {
+        return setProperty(DATE_STRATEGY, dateStrategy);
+    }
+
+    /**
+     * Property used to specify location of a metadata index generated at build time.
+     *
+     * The index contains precomputed per-class property metadata such as property names, order,
+     * nillability, adapters and formats, so that the {@link javax.json.bind.Jsonb Jsonb} instance
+     * does not need to introspect annotations of indexed classes on first use. The format of the
+     * index is implementation specific. Classes not present in the index, or an index which can't
+     * be read by the implementation, are handled by introspection at runtime.
+     *
+     * Index entries have to be validated against the loaded classes. If an entry doesn't match the loaded
+     * version of its class, for example because the index was built from an older version of the class,
+     * the entry is ignored and the class is handled by introspection at runtime. A stale index never
+     * changes the mapping of a class.
+     *
+     * Configures value of {@code METADATA_INDEX} property.
+     *
+     * @param location
+     *      Class path resource name of the metadata index.
+     *
+     * @return This JsonbConfig instance.
+     *
+     * @since JSON Binding 1.1
+     */
+    public final JsonbConfig withMetadataIndex(final String location) {
+        return setProperty(METADATA_INDEX, location);
+    }
+
+    /**
+     * Property used to specify types which mapping is prepared during
+     * {@link javax.json.bind.JsonbBuilder#build()}, as if passed to {@link Jsonb#prepare(Type...)}.
+     *
+     * Configures value of {@code PREPARED_TYPES} property.
+     *
+     * Calling withPreparedTypes more than once will merge the types with previous value.
+     *
+     * @param types
+     *      Types to prepare mapping for.
+     *
+     * @return This JsonbConfig instance.
+     *
+     * @since JSON Binding 1.1
+     */
+    public final JsonbConfig withPreparedTypes(final Type... types) {
+        mergeProperties(PREPARED_TYPES, types, Type.class);
+        return this;
+    }
+
+    /**
+     * Property used to specify whether types configured by {@link #withPreparedTypes(Type...)}
+     * may be prepared by multiple threads in parallel.
+     *
+     * Configures value of {@code PARALLEL_PREPARATION} property.
+     *
+     * @param parallel
+     *      True means types may be prepared in parallel, false (default)
+     *      means types are prepared sequentially by the thread calling {@code build()}.
+     *
+     * @return This JsonbConfig instance.
+     *
+     * @since JSON Binding 1.1
+     */
+    public final JsonbConfig withParallelPreparation(final Boolean parallel) {
+        return setProperty(PARALLEL_PREPARATION, parallel);
+    }
+
     @SuppressWarnings("unchecked")
     private <T> void mergeProperties(final String propertyKey, final T[] values, final Class<T> tClass) {
         final Optional<Object> property = getProperty(propertyKey);
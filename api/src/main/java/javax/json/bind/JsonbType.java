@@ -0,0 +1,146 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2017 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package javax.json.bind;
+
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+
+/**
+ * <p>Captures generic runtime type of the content tree's root object. Type is captured from type argument
+ * of an anonymous subclass once, when the instance is created, and can be passed to
+ * {@link Jsonb#fromJson(String, JsonbType)} and similar methods, which return instance of captured type
+ * without cast.</p>
+ *
+ * <pre>
+ * {@code
+ * // Create once, reuse for all calls
+ * static final JsonbType<List<Dog>> DOG_LIST = new JsonbType<List<Dog>>() { };
+ *
+ * List<Dog> dogs = jsonb.fromJson(json, DOG_LIST);
+ * }</pre>
+ *
+ * <p>Instances are immutable and safe for use by multiple concurrent threads. Two instances are equal
+ * if their captured types are equal.</p>
+ *
+ * @param <T> Captured runtime type.
+ * @see Jsonb
+ * @since JSON Binding 1.1
+ */
+public abstract class JsonbType<T> {
+
+    private final Type type;
+
+    /**
+     * Captures type argument of the anonymous subclass.
+     *
+     * @throws JsonbException If the type argument is missing or contains an unresolved type variable,
+     * e.g. {@code new JsonbType<List<T>>() { }} inside of a generic method.
+     */
+    protected JsonbType() {
+        final Type superclass = getClass().getGenericSuperclass();
+        if (!(superclass instanceof ParameterizedType)
+                || ((ParameterizedType) superclass).getRawType() != JsonbType.class) {
+            throw new JsonbException("JsonbType must be created as a direct subclass with type argument, "
+                                        + "e.g. new JsonbType<List<String>>() { }");
+        }
+        type = ((ParameterizedType) superclass).getActualTypeArguments()[0];
+        if (containsTypeVariable(type)) {
+            throw new JsonbException("JsonbType type argument must not contain a type variable: "
+                                        + type.getTypeName());
+        }
+    }
+
+    private static boolean containsTypeVariable(final Type type) {
+        if (type instanceof TypeVariable) {
+            return true;
+        }
+        if (type instanceof GenericArrayType) {
+            return containsTypeVariable(((GenericArrayType) type).getGenericComponentType());
+        }
+        if (type instanceof WildcardType) {
+            return containsTypeVariable(((WildcardType) type).getUpperBounds())
+                    || containsTypeVariable(((WildcardType) type).getLowerBounds());
+        }
+        if (type instanceof ParameterizedType) {
+            final ParameterizedType parameterizedType = (ParameterizedType) type;
+            return (parameterizedType.getOwnerType() != null
+                        && containsTypeVariable(parameterizedType.getOwnerType()))
+                    || containsTypeVariable(parameterizedType.getActualTypeArguments());
+        }
+        return false;
+    }
+
+    private static boolean containsTypeVariable(final Type[] types) {
+        for (Type type : types) {
+            if (containsTypeVariable(type)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the captured runtime type.
+     *
+     * @return Captured runtime type.
+     */
+    public final Type getType() {
+        return type;
+    }
+
+    @Override
+    public final boolean equals(final Object o) {
+        return o instanceof JsonbType && type.equals(((JsonbType<?>) o).type);
+    }
+
+    @Override
+    public final int hashCode() {
+        return type.hashCode();
+    }
+
+    @Override
+    public final String toString() {
+        return "JsonbType<" + type.getTypeName() + ">";
+    }
+}
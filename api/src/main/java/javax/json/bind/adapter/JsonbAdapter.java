@@ -39,6 +39,8 @@
  */
 package javax.json.bind.adapter;
 
+import java.lang.reflect.Type;
+
 /**
  * <p>Allows to define custom mapping for given java type. The target type could be string or some
  * mappable java type.</p>
@@ -52,11 +54,12 @@ package javax.json.bind.adapter;
  * <p>Adapters are registered using {@link javax.json.bind.JsonbConfig#withAdapters(JsonbAdapter[])} method
  * or using {@link javax.json.bind.annotation.JsonbTypeAdapter} annotation on class field.</p>
  *
- * @param <Original> The type that JSONB doesn't know how to handle
- * @param <Adapted> The type that JSONB knows how to handle out of the box
- *
  * <p>Adapter runtime "Original" and "Adapted" generic types are inferred from subclassing information,
- * which is mandatory for adapter to work.</p>
+ * which is mandatory for adapter to work, unless the adapter declares them explicitly by
+ * {@link #getOriginalType()} and {@link #getAdaptedType()}.</p>
+ *
+ * <p>Adapters are matched to runtime types once per runtime type and the result is cached, so that
+ * no inspection of adapter generic types is done during serialization and deserialization.</p>
  *
  * <p>Sample 1:</p>
  * <pre>
@@ -83,8 +86,12 @@ package javax.json.bind.adapter;
  * }
  * </pre>
  *
+ * @param <Original> The type that JSONB doesn't know how to handle
+ * @param <Adapted> The type that JSONB knows how to handle out of the box
+ *
  * @see javax.json.bind.JsonbConfig
  * @see javax.json.bind.annotation.JsonbTypeAdapter
+ * @see JsonbStreamingAdapter
  * @since JSON Binding 1.0
  */
 public interface JsonbAdapter<Original, Adapted> {
@@ -109,4 +116,28 @@ public interface JsonbAdapter<Original, Adapted> {
      * @throws Exception if there is an error during the conversion.
      */
     Original adaptFromJson(Adapted obj) throws Exception;
+
+    /**
+     * Declares "Original" type of this adapter. If declared, the type is used instead of type inferred
+     * from subclassing information.
+     *
+     * @return Original type of this adapter, or {@code null} (default) if it should be inferred.
+     *
+     * @since JSON Binding 1.1
+     */
+    default Type getOriginalType() {
+        return null;
+    }
+
+    /**
+     * Declares "Adapted" type of this adapter. If declared, the type is used instead of type inferred
+     * from subclassing information.
+     *
+     * @return Adapted type of this adapter, or {@code null} (default) if it should be inferred.
+     *
+     * @since JSON Binding 1.1
+     */
+    default Type getAdaptedType() {
+        return null;
+    }
 }
@@ -0,0 +1,141 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2017 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package javax.json.bind.adapter;
+
+import javax.json.stream.JsonGenerator;
+import javax.json.stream.JsonParser;
+import java.lang.reflect.Type;
+
+/**
+ * <p>Allows to define custom mapping for given java type, which is written directly to {@link JsonGenerator}
+ * and read directly from {@link JsonParser}. Unlike {@link JsonbAdapter}, no intermediate "Adapted" instance
+ * is created for adapted value. Typical use is mapping of value types to JSON strings or numbers,
+ * such as {@link java.util.UUID} to string.</p>
+ *
+ * <p>Streaming adapters are registered using
+ * {@link javax.json.bind.JsonbConfig#withStreamingAdapters(JsonbStreamingAdapter[])} method
+ * or using {@link javax.json.bind.annotation.JsonbTypeStreamingAdapter} annotation on class field.</p>
+ *
+ * <p>Adapter runtime "Original" generic type is inferred from subclassing information the same way as for
+ * {@link JsonbAdapter}, unless the adapter declares it explicitly by {@link #getOriginalType()}.
+ * Adapter is not called for null values.</p>
+ *
+ * <p>A {@link JsonbAdapter} and a {@code JsonbStreamingAdapter} must not be registered for the same "Original"
+ * type using {@link javax.json.bind.JsonbConfig}, and a property must not be annotated with both
+ * {@link javax.json.bind.annotation.JsonbTypeAdapter} and
+ * {@link javax.json.bind.annotation.JsonbTypeStreamingAdapter}. Such combinations are reported
+ * by throwing {@link javax.json.bind.JsonbException JsonbException}.</p>
+ *
+ * <p>Custom mapping of a property is selected in the following order, more specific registration overriding
+ * wider scope:</p>
+ * <ol>
+ *   <li>adapter, streaming adapter, serializer or deserializer annotation on the property,</li>
+ *   <li>adapter, streaming adapter, serializer or deserializer annotation on the type of the property,</li>
+ *   <li>adapter, streaming adapter, serializer or deserializer registered using
+ *   {@link javax.json.bind.JsonbConfig}.</li>
+ * </ol>
+ * <p>For example, {@link javax.json.bind.annotation.JsonbTypeStreamingAdapter} on a property or type takes
+ * precedence over a {@link JsonbAdapter} registered using {@link javax.json.bind.JsonbConfig}. Within the same
+ * level, a streaming adapter takes precedence over {@link javax.json.bind.serializer.JsonbSerializer} and
+ * {@link javax.json.bind.serializer.JsonbDeserializer} registered for the same "Original" type, which are
+ * then not called for values handled by the streaming adapter.</p>
+ *
+ * <p>Sample:</p>
+ * <pre>
+ * {@code
+ *      class UUIDAdapter implements JsonbStreamingAdapter<UUID> {
+ *          public void adaptToJson(UUID obj, JsonGenerator generator) {
+ *              generator.write(obj.toString());
+ *          }
+ *
+ *          public UUID adaptFromJson(JsonParser parser, JsonParser.Event event) {
+ *              return UUID.fromString(parser.getString());
+ *          }
+ *      }
+ * }
+ * </pre>
+ *
+ * @param <Original> The type that JSONB doesn't know how to handle
+ *
+ * @see JsonbAdapter
+ * @see javax.json.bind.JsonbConfig
+ * @see javax.json.bind.annotation.JsonbTypeStreamingAdapter
+ * @since JSON Binding 1.1
+ */
+public interface JsonbStreamingAdapter<Original> {
+
+    /**
+     * This method is used on serialization only. It writes exactly one JSON value representing the object
+     * using generator methods without key name. If the value is a property of JSON object, the key name
+     * has already been written by JSONB runtime.
+     *
+     * @param obj
+     *      Object to write.
+     * @param generator
+     *      JSON generator to write the value with.
+     * @throws Exception if there is an error during the conversion.
+     */
+    void adaptToJson(Original obj, JsonGenerator generator) throws Exception;
+
+    /**
+     * This method is used on deserialization only. Parser cursor is at the value to read, which is
+     * passed as event. If the event is START_OBJECT or START_ARRAY, the adapter has to move the cursor
+     * to the corresponding END_OBJECT or END_ARRAY.
+     *
+     * @param parser
+     *      JSON parser to read the value from.
+     * @param event
+     *      Current parser event.
+     * @return Converted object representing pojo to be set into object graph.
+     * @throws Exception if there is an error during the conversion.
+     */
+    Original adaptFromJson(JsonParser parser, JsonParser.Event event) throws Exception;
+
+    /**
+     * Declares "Original" type of this adapter. If declared, the type is used instead of type inferred
+     * from subclassing information.
+     *
+     * @return Original type of this adapter, or {@code null} (default) if it should be inferred.
+     */
+    default Type getOriginalType() {
+        return null;
+    }
+}
@@ -60,6 +60,16 @@ import java.lang.annotation.Target;
  *   <li> constructor </li>
  * </ul>
  *
+ * <p><b>Records</b></p>
+ * <p>On Java platforms supporting record classes, the canonical constructor of a record is used as the creator
+ * of the record without being annotated, unless another constructor or static factory method of the record
+ * is annotated with {@code @JsonbCreator}. Parameters of the canonical constructor are bound to JSON properties
+ * by record component names, and record components are serialized using their accessor methods.
+ * Record component names are resolved to constructor parameter positions once per record class.</p>
+ *
+ * <p>Mechanism used to invoke the creator depends on configured property access strategy,
+ * see {@link javax.json.bind.config.PropertyAccessStrategy#GENERATED}.</p>
+ *
  * @since JSON Binding 1.0
  */
 @JsonbAnnotation
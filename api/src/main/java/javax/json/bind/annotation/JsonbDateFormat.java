@@ -49,6 +49,13 @@ import java.lang.annotation.Target;
  *
  * <p>The pattern format is specified in {@link java.time.format.DateTimeFormatter}</p>
  *
+ * <p>Patterns are compiled into {@link java.time.format.DateTimeFormatter} once per pattern and locale.
+ * As formatters are immutable and thread safe, compiled formatters may be shared by all properties and
+ * all {@link javax.json.bind.Jsonb Jsonb} instances. The same applies to the pattern set by
+ * {@link javax.json.bind.JsonbConfig#withDateFormat(String, java.util.Locale)}.
+ * {@link #DEFAULT_FORMAT} and {@link #TIME_IN_MILLIS} are not patterns; implementations may
+ * format and parse such values without {@link java.time.format.DateTimeFormatter}.</p>
+ *
  * <p><b>Usage</b></p>
  * <p>The {@code @JsonbDateFormat} annotation can be used with the following program elements:</p>
  * <ul>
@@ -74,12 +81,33 @@ public @interface JsonbDateFormat {
 
     /**
      * Value that indicates the default format.
+     *
+     * <p>Using the default format, {@code java.time} values are formatted as specified by
+     * {@link java.time.format.DateTimeFormatter} constants:</p>
+     * <ul>
+     *   <li> {@link java.time.Instant} - {@code ISO_INSTANT} </li>
+     *   <li> {@link java.time.LocalDate} - {@code ISO_LOCAL_DATE} </li>
+     *   <li> {@link java.time.LocalTime} - {@code ISO_LOCAL_TIME} </li>
+     *   <li> {@link java.time.LocalDateTime} - {@code ISO_LOCAL_DATE_TIME} </li>
+     *   <li> {@link java.time.OffsetTime} - {@code ISO_OFFSET_TIME} </li>
+     *   <li> {@link java.time.OffsetDateTime} - {@code ISO_OFFSET_DATE_TIME} </li>
+     *   <li> {@link java.time.ZonedDateTime} - {@code ISO_ZONED_DATE_TIME} </li>
+     * </ul>
+     *
+     * <p>Implementations may encode and decode such values by a dedicated ISO-8601 codec
+     * working directly with output and input characters, without intermediate {@code String} and
+     * {@link java.time.temporal.TemporalAccessor} instances, provided it produces and accepts
+     * the same text as the corresponding formatter.</p>
      */
     String DEFAULT_FORMAT = "##default";
 
     /**
      * Special date format which serializes given date as milliseconds.
      * Such date is serialized as a number.
+     *
+     * <p>For date types representing an instant on the time-line, this format is equivalent to
+     * {@link javax.json.bind.config.DateStrategy#EPOCH_MILLIS} date strategy, and takes precedence over
+     * any date strategy.</p>
      */
     String TIME_IN_MILLIS = "##time-in-millis";
 
@@ -49,6 +49,13 @@ import java.lang.annotation.Target;
  *
  * <p>The pattern format is specified in {@link java.text.DecimalFormat}</p>
  *
+ * <p>Patterns are compiled once per pattern and locale and the compiled format is reused by all
+ * serialization and deserialization operations. As {@link java.text.DecimalFormat} is not thread safe,
+ * implementations may keep the compiled format as a prototype and use per-thread copies or clones of it,
+ * instead of sharing a single instance between threads with synchronization.
+ * For common patterns, such as {@code #0.00}, implementations may use a faster formatter instead of
+ * {@link java.text.DecimalFormat}, provided it produces the same results.</p>
+ *
  * <p><b>Usage</b></p>
  * <p>The {@code @JsonbNumberFormat} annotation can be used with the following program elements:</p>
  * <ul>
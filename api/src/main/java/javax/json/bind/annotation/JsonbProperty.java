@@ -55,6 +55,7 @@ import java.lang.annotation.Target;
  *   <li> a JavaBean property </li>
  *   <li> field </li>
  *   <li> parameter </li>
+ *   <li> record component </li>
  * </ul>
  *
  * @since JSON Binding 1.0
@@ -53,6 +53,8 @@ import java.lang.annotation.Target;
  * by any properties not included in the definition. The order of properties not
  * included in the definition is not guaranteed.</p>
  *
+ * <p>Names are resolved to properties once per class, when mapping of the class is built.</p>
+ *
  * @since JSON Binding 1.0
  */
 @JsonbAnnotation
@@ -71,6 +71,9 @@ import static java.lang.annotation.ElementType.ANNOTATION_TYPE;
  * or this setter are annotated with other JSON Binding annotations. Exception is not thrown
  * if JSON Binding annotations are presented on the getter.</p>
  *
+ * <p>During deserialization, values of JSON properties mapped to a transient property are skipped
+ * the same way as values of unknown properties, see {@link javax.json.bind.Jsonb}.</p>
+ *
  * @since JSON Binding 1.0
  */
 @JsonbAnnotation
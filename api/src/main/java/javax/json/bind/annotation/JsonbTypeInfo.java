@@ -0,0 +1,130 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2017 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package javax.json.bind.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * <p>Configures polymorphic handling of the annotated type and its subtypes. Subtype of serialized
+ * object is identified by an alias written as a type discriminator property with name specified by {@link #key()}.
+ * Aliases are defined by {@link JsonbSubtype} annotations.</p>
+ *
+ * <p>On serialization, type discriminator property is written as the first property of the JSON object,
+ * regardless of property order strategy. Its value is the alias of the runtime type of the object, if the runtime
+ * type is one of the subtypes, otherwise the alias of the closest subtype the runtime type extends or implements.
+ * For example, if only {@code Dog} is listed, an instance of {@code Puppy extends Dog} is serialized
+ * with alias of {@code Dog} and deserialized as {@code Dog}. If the runtime type isn't assignable to any of the
+ * subtypes, type discriminator property is not written. The closest subtype is found by distance from
+ * the runtime type in its type hierarchy, as defined for serializers in
+ * {@link javax.json.bind.JsonbConfig#withSerializers(javax.json.bind.serializer.JsonbSerializer[])}. If several
+ * listed subtypes share the smallest distance, JsonbException is thrown.</p>
+ *
+ * <p>Polymorphic handling is selected by the runtime type of serialized object, regardless of the static type
+ * it's serialized as. Type discriminator is written also when the object is serialized as one of the subtypes,
+ * as {@code Object}, or as a root object, e.g. {@code jsonb.toJson(dog)}. As annotations on interfaces are not
+ * inherited, implementations search all superclasses and interfaces of the runtime type for
+ * {@code @JsonbTypeInfo}. Annotated supertypes which are not chained as described below are reported
+ * by throwing JsonbException.</p>
+ *
+ * <p>A subtype may be annotated with its own {@code @JsonbTypeInfo} to define further subtypes. Its type
+ * discriminator property is written right after the type discriminator property of its supertype, and
+ * subtype is resolved level by level on deserialization. Type discriminator keys of such chained
+ * annotations must differ, otherwise JsonbException is thrown.</p>
+ *
+ * <p>On deserialization, if type discriminator is the first property of the JSON object, subtype is selected
+ * by its alias and the object is deserialized directly into the subtype. Aliases are resolved to subtypes once
+ * per annotated type. If type discriminator is not the first property, the implementation has to buffer
+ * the JSON object until type discriminator is found, which is less efficient. Implementations may report such
+ * occurrences. If type discriminator is missing, the object is deserialized as the annotated type, or
+ * JsonbException is thrown if the annotated type is abstract class or interface.
+ * Unknown alias is reported by throwing JsonbException.</p>
+ *
+ * <p>Sample:</p>
+ * <pre>
+ *      &#64;JsonbTypeInfo(key = "@animal", value = {
+ *          &#64;JsonbSubtype(alias = "dog", type = Dog.class),
+ *          &#64;JsonbSubtype(alias = "cat", type = Cat.class)
+ *      })
+ *      interface Animal {}
+ *
+ *      // Dog is serialized as {"&#64;animal":"dog","name":"Falco"}
+ * </pre>
+ *
+ * <p>Type discriminator key must not be the same as name of any property of the annotated type and its
+ * subtypes, aliases must be unique and each subtype must be assignable to the annotated type,
+ * otherwise JsonbException is thrown.</p>
+ *
+ * <p><b>Usage</b></p>
+ * <p>The {@code @JsonbTypeInfo} annotation can be used with the following program elements:</p>
+ * <ul>
+ *   <li> type </li>
+ * </ul>
+ *
+ * @see JsonbSubtype
+ * @since JSON Binding 1.1
+ */
+@JsonbAnnotation
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.ANNOTATION_TYPE, ElementType.TYPE})
+public @interface JsonbTypeInfo {
+
+    /**
+     * Default name of type discriminator property.
+     */
+    String DEFAULT_KEY_NAME = "@type";
+
+    /**
+     * Name of type discriminator property.
+     *
+     * @return Name of type discriminator property.
+     */
+    String key() default DEFAULT_KEY_NAME;
+
+    /**
+     * Subtypes of the annotated type with their aliases.
+     *
+     * @return Subtypes of the annotated type.
+     */
+    JsonbSubtype[] value() default {};
+}
@@ -41,8 +41,18 @@
 package javax.json.bind.config;
 
 /**
- * Specifies predefined binary data handling strategies.
- * This strategy can be set via {@link javax.json.bind.JsonbConfig#withBinaryDataStrategy(String)}.
+ * <p>Specifies predefined binary data handling strategies.
+ * This strategy can be set via {@link javax.json.bind.JsonbConfig#withBinaryDataStrategy(String)}.</p>
+ *
+ * <p>Binary data strategy applies to properties of type {@code byte[]}, {@link java.nio.ByteBuffer}
+ * and {@link java.io.InputStream}. On serialization, the remaining bytes of a {@link java.nio.ByteBuffer}
+ * are written without changing its position, and an {@link java.io.InputStream} is read until the end
+ * of stream without being closed. On deserialization, a {@link java.nio.ByteBuffer} property is set to
+ * a buffer with decoded bytes and an {@link java.io.InputStream} property is set to a stream of decoded bytes.</p>
+ *
+ * <p>Using {@link #BASE_64} and {@link #BASE_64_URL} strategies, implementations should encode and decode
+ * binary data in chunks, directly to the output and from the input of the JSON processing,
+ * without materializing the complete encoded value as a {@code String}.</p>
  *
  * @see javax.json.bind.JsonbConfig
  * @since JSON Binding 1.0
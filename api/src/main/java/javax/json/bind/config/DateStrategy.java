@@ -0,0 +1,104 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2017 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package javax.json.bind.config;
+
+/**
+ * <p>Specifies predefined date handling strategies.
+ * This strategy can be set via {@link javax.json.bind.JsonbConfig#withDateStrategy(String)}.</p>
+ *
+ * <p>Strategy applies to date types representing an instant on the time-line, such as
+ * {@link java.util.Date}, {@link java.util.Calendar}, {@link java.time.Instant},
+ * {@link java.time.OffsetDateTime} and {@link java.time.ZonedDateTime}. Other date types are
+ * always handled using {@link #ISO} strategy. Date format specified by
+ * {@link javax.json.bind.annotation.JsonbDateFormat} or
+ * {@link javax.json.bind.JsonbConfig#withDateFormat(String, java.util.Locale)} takes precedence over this strategy.</p>
+ *
+ * <p>Using epoch strategies, dates are serialized as JSON numbers of arbitrary precision, which never overflow.
+ * Dates before 1970-01-01T00:00:00Z are serialized as negative numbers. Precision finer than the unit
+ * of the strategy is rounded towards negative infinity, as by {@link java.time.Instant#toEpochMilli()}.</p>
+ *
+ * <p>On deserialization using epoch strategies, integral JSON numbers, including negative numbers, are accepted.
+ * JSON number with non-zero fractional part, JSON string, and number out of range of the date type
+ * are reported by throwing {@link javax.json.bind.JsonbException JsonbException}.
+ * Epoch numbers carry no time zone or offset, so {@link java.time.OffsetDateTime},
+ * {@link java.time.ZonedDateTime} and {@link java.util.Calendar} values are deserialized in UTC. Time zone
+ * or offset of serialized value is not preserved, only the instant it represents.</p>
+ *
+ * @see javax.json.bind.JsonbConfig
+ * @since JSON Binding 1.1
+ */
+public final class DateStrategy {
+
+    /**
+     * Private constructor to disallow instantiation.
+     */
+    private DateStrategy() { };
+
+    /**
+     * Using this strategy, date is serialized as a string in ISO-8601 format.
+     * Default date strategy.
+     */
+    public static final String ISO = "ISO";
+
+    /**
+     * Using this strategy, date is serialized as a number of milliseconds since 1970-01-01T00:00:00Z.
+     * Fraction of millisecond is rounded towards negative infinity on serialization.
+     *
+     * <p>For date types this strategy applies to, it is equivalent to date format
+     * {@link javax.json.bind.annotation.JsonbDateFormat#TIME_IN_MILLIS}. Unlike this strategy, the date format
+     * applies to all date types, and as any date format, it takes precedence over this strategy when both
+     * are specified.</p>
+     */
+    public static final String EPOCH_MILLIS = "EPOCH_MILLIS";
+
+    /**
+     * Using this strategy, date is serialized as a number of seconds since 1970-01-01T00:00:00Z.
+     * Fraction of second is rounded towards negative infinity on serialization.
+     */
+    public static final String EPOCH_SECONDS = "EPOCH_SECONDS";
+
+    /**
+     * Using this strategy, date is serialized as a number of nanoseconds since 1970-01-01T00:00:00Z.
+     * Values beyond range of {@code long}, i.e. dates after 2262-04-11, are serialized as JSON numbers
+     * of arbitrary precision as well.
+     */
+    public static final String EPOCH_NANOS = "EPOCH_NANOS";
+}
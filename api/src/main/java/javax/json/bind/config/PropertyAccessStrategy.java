@@ -0,0 +1,131 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2017 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package javax.json.bind.config;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * <p>Allows to define custom property access strategy.
+ * Specifies predefined property access strategies.</p>
+ *
+ * <p>Property access strategy creates accessors used to read and write values of
+ * fields and JavaBean properties which were already found visible by
+ * {@link PropertyVisibilityStrategy}. Accessors are created once per property and reused
+ * for all subsequent serialization and deserialization operations. If no strategy is set,
+ * the access mechanism is implementation specific.</p>
+ *
+ * <p>Accessors created by a custom strategy pass values as objects, so values of primitive properties
+ * are boxed. Only predefined {@link #METHOD_HANDLE} and {@link #GENERATED} strategies, which are implemented
+ * by the JSON Binding provider, are expected to access primitive properties without boxing.</p>
+ *
+ * <p>Accessors can't throw checked exceptions. An accessor, which fails to access the property
+ * (for example due to {@link IllegalAccessException}), throws an unchecked exception, and the
+ * failure is reported to the caller of the binding operation by throwing
+ * {@link javax.json.bind.JsonbException JsonbException} with the original exception as its cause.
+ * Failure to create an accessor is reported the same way.</p>
+ *
+ * <p>This strategy can be set via {@link javax.json.bind.JsonbConfig}.</p>
+ *
+ * @see javax.json.bind.JsonbConfig
+ * @see PropertyVisibilityStrategy
+ * @since JSON Binding 1.1
+ */
+public interface PropertyAccessStrategy {
+
+    /**
+     * Using this strategy, properties are accessed using {@link Field#get(Object)},
+     * {@link Field#set(Object, Object)} and {@link Method#invoke(Object, Object...)}.
+     */
+    String REFLECTION = "REFLECTION";
+
+    /**
+     * Using this strategy, properties are accessed using {@link java.lang.invoke.MethodHandle}s
+     * unreflected from fields and methods.
+     */
+    String METHOD_HANDLE = "METHOD_HANDLE";
+
+    /**
+     * Using this strategy, properties are accessed using accessors generated at runtime, such as lambdas
+     * created by {@link java.lang.invoke.LambdaMetafactory}, which are invoked without reflection.
+     * Implementations fall back to {@link #METHOD_HANDLE} for properties which can't have generated accessors.
+     *
+     * <p>With this strategy, constructors and factory methods annotated with
+     * {@link javax.json.bind.annotation.JsonbCreator} are invoked by generated code as well. Deserialized
+     * parameter values of primitive types are passed to the creator without boxing and without being
+     * collected in an intermediate {@code Object[]}.</p>
+     */
+    String GENERATED = "GENERATED";
+
+    /**
+     * Creates accessor reading value of the given field.
+     *
+     * @param field Field to read.
+     * @return Function returning field value of the object passed in.
+     */
+    Function<Object, Object> getter(Field field);
+
+    /**
+     * Creates accessor reading value using the given getter method.
+     *
+     * @param method Getter method to call.
+     * @return Function returning getter result of the object passed in.
+     */
+    Function<Object, Object> getter(Method method);
+
+    /**
+     * Creates accessor writing value of the given field.
+     *
+     * @param field Field to write.
+     * @return Consumer setting value passed as second argument to field of the object passed as first argument.
+     */
+    BiConsumer<Object, Object> setter(Field field);
+
+    /**
+     * Creates accessor writing value using the given setter method.
+     *
+     * @param method Setter method to call.
+     * @return Consumer calling setter of the object passed as first argument with value passed as second argument.
+     */
+    BiConsumer<Object, Object> setter(Method method);
+}
@@ -47,6 +47,13 @@ package javax.json.bind.config;
  *
  * <p>This strategy can be set via {@link javax.json.bind.JsonbConfig}.</p>
  *
+ * <p>Using predefined strategies, and custom strategies with {@link #isCacheable()} returning true,
+ * property names are translated once per class, when mapping of the class is built. Resulting JSON names,
+ * as well as names customized by {@link javax.json.bind.annotation.JsonbProperty},
+ * don't change during lifetime of a {@link javax.json.bind.Jsonb Jsonb} instance. Implementations may therefore
+ * escape and encode them once, together with surrounding JSON punctuation, and write them
+ * as is in all serialization operations.</p>
+ *
  * @see javax.json.bind.JsonbConfig
  * @since JSON Binding 1.0
  */
@@ -83,6 +90,13 @@ public interface PropertyNamingStrategy {
      * Using this strategy, the serialization will be same as identity.
      * Deserialization will be case insensitive. E.g. property in JSON with name
      * PropertyNAME, will be mapped to field propertyName.
+     *
+     * <p>Names are compared character by character as by {@link String#equalsIgnoreCase(String)}.
+     * Implementations are not required to create lower or upper case copies of property names, and
+     * may match names of JSON properties against matchers precomputed once per class. ASCII case folding
+     * may be used only if the name of incoming JSON property consists of ASCII characters only. Other names
+     * have to be matched by the full rule, as some non-ASCII characters match ASCII characters, e.g.
+     * JSON property name starting with KELVIN SIGN (U+212A) followed by {@code ind} matches property {@code kind}.</p>
      */
     String CASE_INSENSITIVE = "CASE_INSENSITIVE";
 
@@ -93,4 +107,20 @@ public interface PropertyNamingStrategy {
      * @return Translated JSON field name.
      */
     String translateName(String propertyName);
+
+    /**
+     * Responds whether results of {@link #translateName(String)} can be cached.
+     *
+     * Strategy is cacheable if translation of the same property name always results in the same
+     * JSON field name and has no side effects. Translations of cacheable strategies are computed
+     * once per class and property, and reused for the lifetime of {@link javax.json.bind.Jsonb Jsonb} instance.
+     * Translations of other strategies may be computed on each serialization and deserialization operation.
+     *
+     * @return True if translations can be cached, false (default) otherwise.
+     *
+     * @since JSON Binding 1.1
+     */
+    default boolean isCacheable() {
+        return false;
+    }
 }
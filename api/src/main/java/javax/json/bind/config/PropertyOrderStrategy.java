@@ -41,8 +41,12 @@
 package javax.json.bind.config;
 
 /**
- * Specifies predefined property order strategies.
- * This strategy can be set via {@link javax.json.bind.JsonbConfig#withPropertyOrderStrategy(String)}
+ * <p>Specifies predefined property order strategies.
+ * This strategy can be set via {@link javax.json.bind.JsonbConfig#withPropertyOrderStrategy(String)}</p>
+ *
+ * <p>Order of properties depends only on the class and the strategy, not on serialized instance.
+ * It is computed once per class, together with order defined by
+ * {@link javax.json.bind.annotation.JsonbPropertyOrder}, and reused by all serialization operations.</p>
  *
  * @see javax.json.bind.JsonbConfig
  * @since JSON Binding 1.0
@@ -41,6 +41,7 @@
 package javax.json.bind.serializer;
 
 
+import javax.json.bind.JsonbException;
 import javax.json.stream.JsonParser;
 import java.lang.reflect.Type;
 
@@ -101,4 +102,120 @@ public interface DeserializationContext {
      * @return Deserialized instance.
      */
     <T> T deserialize(Type type, JsonParser parser);
+
+    /**
+     * <p>
+     * Deserialize JSON value into {@code int} using {@link javax.json.stream.JsonParser}.
+     * JsonParser cursor have to be at KEY_NAME before the value, or at the value to call this method.
+     * After deserialization is complete JsonParser will be at the deserialized value.
+     * </p>
+     *
+     * <p>
+     * Value is deserialized the same way as by {@code deserialize(Integer.class, parser)}, including
+     * applicable number format and adapters, but implementations are expected not to box the result.
+     * The default implementation delegates to {@link #deserialize(Class, JsonParser)}.
+     * </p>
+     *
+     * @param parser
+     *      JSONP parser to drive.
+     * @return Deserialized value.
+     *
+     * @throws JsonbException
+     *      If JSON value is null or can't be deserialized into {@code int}.
+     * @since JSON Binding 1.1
+     */
+    default int deserializeInt(final JsonParser parser) {
+        final Integer value = deserialize(Integer.class, parser);
+        if (value == null) {
+            throw new JsonbException("Cannot deserialize null value into int");
+        }
+        return value;
+    }
+
+    /**
+     * <p>
+     * Deserialize JSON value into {@code long} using {@link javax.json.stream.JsonParser}.
+     * JsonParser cursor have to be at KEY_NAME before the value, or at the value to call this method.
+     * After deserialization is complete JsonParser will be at the deserialized value.
+     * </p>
+     *
+     * <p>
+     * Value is deserialized the same way as by {@code deserialize(Long.class, parser)}, including
+     * applicable number format and adapters, but implementations are expected not to box the result.
+     * The default implementation delegates to {@link #deserialize(Class, JsonParser)}.
+     * </p>
+     *
+     * @param parser
+     *      JSONP parser to drive.
+     * @return Deserialized value.
+     *
+     * @throws JsonbException
+     *      If JSON value is null or can't be deserialized into {@code long}.
+     * @since JSON Binding 1.1
+     */
+    default long deserializeLong(final JsonParser parser) {
+        final Long value = deserialize(Long.class, parser);
+        if (value == null) {
+            throw new JsonbException("Cannot deserialize null value into long");
+        }
+        return value;
+    }
+
+    /**
+     * <p>
+     * Deserialize JSON value into {@code double} using {@link javax.json.stream.JsonParser}.
+     * JsonParser cursor have to be at KEY_NAME before the value, or at the value to call this method.
+     * After deserialization is complete JsonParser will be at the deserialized value.
+     * </p>
+     *
+     * <p>
+     * Value is deserialized the same way as by {@code deserialize(Double.class, parser)}, including
+     * applicable number format and adapters, but implementations are expected not to box the result.
+     * The default implementation delegates to {@link #deserialize(Class, JsonParser)}.
+     * </p>
+     *
+     * @param parser
+     *      JSONP parser to drive.
+     * @return Deserialized value.
+     *
+     * @throws JsonbException
+     *      If JSON value is null or can't be deserialized into {@code double}.
+     * @since JSON Binding 1.1
+     */
+    default double deserializeDouble(final JsonParser parser) {
+        final Double value = deserialize(Double.class, parser);
+        if (value == null) {
+            throw new JsonbException("Cannot deserialize null value into double");
+        }
+        return value;
+    }
+
+    /**
+     * <p>
+     * Deserialize JSON value into {@code boolean} using {@link javax.json.stream.JsonParser}.
+     * JsonParser cursor have to be at KEY_NAME before the value, or at the value to call this method.
+     * After deserialization is complete JsonParser will be at the deserialized value.
+     * </p>
+     *
+     * <p>
+     * Value is deserialized the same way as by {@code deserialize(Boolean.class, parser)}, including
+     * applicable adapters, but implementations are expected not to box the result.
+     * The default implementation delegates to {@link #deserialize(Class, JsonParser)}.
+     * </p>
+     *
+     * @param parser
+     *      JSONP parser to drive.
+     * @return Deserialized value.
+     *
+     * @throws JsonbException
+     *      If JSON value is null or can't be deserialized into {@code boolean}.
+     * @since JSON Binding 1.1
+     */
+    default boolean deserializeBoolean(final JsonParser parser) {
+        final Boolean value = deserialize(Boolean.class, parser);
+        if (value == null) {
+            throw new JsonbException("Cannot deserialize null value into boolean");
+        }
+        return value;
+    }
 }
@@ -81,4 +81,148 @@ public interface SerializationContext {
      *      Type of serialized object.
      */
     <T> void serialize(T object, JsonGenerator generator);
+
+    /**
+     * Serializes {@code int} value to JSON, using current {@link javax.json.stream.JsonGenerator} instance.
+     * Value is serialized the same way as by {@link #serialize(String, Object, JsonGenerator)} called with
+     * {@code Integer} value, including applicable number format, but implementations are expected not to box it.
+     * The default implementation boxes the value and delegates to {@link #serialize(String, Object, JsonGenerator)}.
+     *
+     * @param key
+     *      JSON key name.
+     * @param value
+     *      Value to serialize.
+     * @param generator
+     *      JSONP generator to serialize with.
+     * @since JSON Binding 1.1
+     */
+    default void serializeInt(final String key, final int value, final JsonGenerator generator) {
+        serialize(key, Integer.valueOf(value), generator);
+    }
+
+    /**
+     * Serializes {@code long} value to JSON, using current {@link javax.json.stream.JsonGenerator} instance.
+     * Value is serialized the same way as by {@link #serialize(String, Object, JsonGenerator)} called with
+     * {@code Long} value, including applicable number format, but implementations are expected not to box it.
+     * The default implementation boxes the value and delegates to {@link #serialize(String, Object, JsonGenerator)}.
+     *
+     * @param key
+     *      JSON key name.
+     * @param value
+     *      Value to serialize.
+     * @param generator
+     *      JSONP generator to serialize with.
+     * @since JSON Binding 1.1
+     */
+    default void serializeLong(final String key, final long value, final JsonGenerator generator) {
+        serialize(key, Long.valueOf(value), generator);
+    }
+
+    /**
+     * Serializes {@code double} value to JSON, using current {@link javax.json.stream.JsonGenerator} instance.
+     * Value is serialized the same way as by {@link #serialize(String, Object, JsonGenerator)} called with
+     * {@code Double} value, including applicable number format, but implementations are expected not to box it.
+     * The default implementation boxes the value and delegates to {@link #serialize(String, Object, JsonGenerator)}.
+     *
+     * @param key
+     *      JSON key name.
+     * @param value
+     *      Value to serialize.
+     * @param generator
+     *      JSONP generator to serialize with.
+     * @since JSON Binding 1.1
+     */
+    default void serializeDouble(final String key, final double value, final JsonGenerator generator) {
+        serialize(key, Double.valueOf(value), generator);
+    }
+
+    /**
+     * Serializes {@code boolean} value to JSON, using current {@link javax.json.stream.JsonGenerator} instance.
+     * Value is serialized the same way as by {@link #serialize(String, Object, JsonGenerator)} called with
+     * {@code Boolean} value, but implementations are expected not to box it.
+     * The default implementation boxes the value and delegates to {@link #serialize(String, Object, JsonGenerator)}.
+     *
+     * @param key
+     *      JSON key name.
+     * @param value
+     *      Value to serialize.
+     * @param generator
+     *      JSONP generator to serialize with.
+     * @since JSON Binding 1.1
+     */
+    default void serializeBoolean(final String key, final boolean value, final JsonGenerator generator) {
+        serialize(key, Boolean.valueOf(value), generator);
+    }
+
+    /**
+     * Serializes {@code int} value to JSON, using current {@link javax.json.stream.JsonGenerator} instance.
+     * Value is serialized the same way as by {@link #serialize(Object, JsonGenerator)} called with
+     * {@code Integer} value, including applicable number format, but implementations are expected not to box it.
+     * The default implementation boxes the value and delegates to {@link #serialize(Object, JsonGenerator)}.
+     *
+     * Method without key parameter is intended to serialize inside JSON_ARRAYs.
+     *
+     * @param value
+     *      Value to serialize.
+     * @param generator
+     *      JSONP generator to serialize with.
+     * @since JSON Binding 1.1
+     */
+    default void serializeInt(final int value, final JsonGenerator generator) {
+        serialize(Integer.valueOf(value), generator);
+    }
+
+    /**
+     * Serializes {@code long} value to JSON, using current {@link javax.json.stream.JsonGenerator} instance.
+     * Value is serialized the same way as by {@link #serialize(Object, JsonGenerator)} called with
+     * {@code Long} value, including applicable number format, but implementations are expected not to box it.
+     * The default implementation boxes the value and delegates to {@link #serialize(Object, JsonGenerator)}.
+     *
+     * Method without key parameter is intended to serialize inside JSON_ARRAYs.
+     *
+     * @param value
+     *      Value to serialize.
+     * @param generator
+     *      JSONP generator to serialize with.
+     * @since JSON Binding 1.1
+     */
+    default void serializeLong(final long value, final JsonGenerator generator) {
+        serialize(Long.valueOf(value), generator);
+    }
+
+    /**
+     * Serializes {@code double} value to JSON, using current {@link javax.json.stream.JsonGenerator} instance.
+     * Value is serialized the same way as by {@link #serialize(Object, JsonGenerator)} called with
+     * {@code Double} value, including applicable number format, but implementations are expected not to box it.
+     * The default implementation boxes the value and delegates to {@link #serialize(Object, JsonGenerator)}.
+     *
+     * Method without key parameter is intended to serialize inside JSON_ARRAYs.
+     *
+     * @param value
+     *      Value to serialize.
+     * @param generator
+     *      JSONP generator to serialize with.
+     * @since JSON Binding 1.1
+     */
+    default void serializeDouble(final double value, final JsonGenerator generator) {
+        serialize(Double.valueOf(value), generator);
+    }
+
+    /**
+     * Serializes {@code boolean} value to JSON, using current {@link javax.json.stream.JsonGenerator} instance.
+     * Value is serialized the same way as by {@link #serialize(Object, JsonGenerator)} called with
+     * {@code Boolean} value, but implementations are expected not to box it.
+     * The default implementation boxes the value and delegates to {@link #serialize(Object, JsonGenerator)}.
+     *
+     * Method without key parameter is intended to serialize inside JSON_ARRAYs.
+     *
+     * @param value
+     *      Value to serialize.
+     * @param generator
+     *      JSONP generator to serialize with.
+     * @since JSON Binding 1.1
+     */
+    default void serializeBoolean(final boolean value, final JsonGenerator generator) {
+        serialize(Boolean.valueOf(value), generator);
+    }
 }